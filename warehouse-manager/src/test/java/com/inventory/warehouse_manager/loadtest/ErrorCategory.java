@@ -0,0 +1,37 @@
+package com.inventory.warehouse_manager.loadtest;
+
+/**
+ * Failure buckets, lined up with the handlers in GlobalExceptionHandler.
+ * Every handler answers { "error": "..." }, so 400s are split further on the message
+ * the services throw. 500s cannot be split: handleGeneric replaces the message, and it also
+ * swallows bean-validation failures (MethodArgumentNotValidException), so SERVER_ERROR
+ * covers both. The harness only sends valid bodies, so in practice it means a real fault.
+ */
+public enum ErrorCategory {
+    NOT_FOUND,              // handleNotFound -> 404
+    CAPACITY,               // handleBadRequest, "Not enough capacity ..."
+    INSUFFICIENT_QUANTITY,  // handleBadRequest, "Not enough quantity to transfer ..."
+    BAD_REQUEST,            // any other 400 (handleBadRequest / handleIllegalState)
+    SERVER_ERROR,           // handleGeneric -> 500 (unexpected errors and bean validation)
+    OTHER_STATUS,           // any other non-2xx status
+    TIMEOUT,                // no response within loadtest.requestTimeoutMs
+    TRANSPORT;              // connection refused / reset etc.
+
+    public static ErrorCategory classify(int status, String body) {
+        String message = body != null ? body : "";
+        return switch (status) {
+            case 404 -> NOT_FOUND;
+            case 400 -> {
+                if (message.contains("Not enough capacity")) {
+                    yield CAPACITY;
+                }
+                if (message.contains("Not enough quantity")) {
+                    yield INSUFFICIENT_QUANTITY;
+                }
+                yield BAD_REQUEST;
+            }
+            case 500 -> SERVER_ERROR;
+            default -> OTHER_STATUS;
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorCategoryTest {
+
+    @Test
+    void notFoundAndServerErrorsMapByStatus() {
+        assertEquals(ErrorCategory.NOT_FOUND,
+                ErrorCategory.classify(404, "{\"error\":\"Item not found with id 7\"}"));
+        assertEquals(ErrorCategory.SERVER_ERROR,
+                ErrorCategory.classify(500, "{\"error\":\"Unexpected server error. Please try again.\"}"));
+        assertEquals(ErrorCategory.OTHER_STATUS, ErrorCategory.classify(503, ""));
+    }
+
+    @Test
+    void badRequestsAreSplitOnTheServiceMessage() {
+        assertEquals(ErrorCategory.CAPACITY,
+                ErrorCategory.classify(400, "{\"error\":\"Not enough capacity. Available: 3\"}"));
+        assertEquals(ErrorCategory.CAPACITY,
+                ErrorCategory.classify(400, "{\"error\":\"Not enough capacity in destination warehouse. Available: 0\"}"));
+        assertEquals(ErrorCategory.INSUFFICIENT_QUANTITY,
+                ErrorCategory.classify(400, "{\"error\":\"Not enough quantity to transfer. Available in source: 1\"}"));
+        assertEquals(ErrorCategory.BAD_REQUEST,
+                ErrorCategory.classify(400, "{\"error\":\"Item does not belong to warehouse 2\"}"));
+    }
+
+    @Test
+    void missingBodyFallsBackToPlainBadRequest() {
+        assertEquals(ErrorCategory.BAD_REQUEST, ErrorCategory.classify(400, null));
+    }
+}
@@ -0,0 +1,98 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.warehouse_manager.loadtest.WarehouseApiClient.CallResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Post-run consistency checks on the seeded warehouses, read back through the API.
+ * Each returned string describes one violated invariant; an empty list means the data is consistent.
+ */
+public class InvariantChecker {
+
+    private final WarehouseApiClient client;
+
+    public InvariantChecker(WarehouseApiClient client) {
+        this.client = client;
+    }
+
+    public List<String> check(List<Long> warehouseIds) {
+        List<String> violations = new ArrayList<>();
+
+        CallResult warehouses = client.listWarehouses();
+        if (!warehouses.isSuccess()) {
+            violations.add("Could not list warehouses (HTTP " + warehouses.status() + ")");
+            return violations;
+        }
+
+        Set<Long> seen = new HashSet<>();
+        for (JsonNode warehouse : client.readJson(warehouses)) {
+            long id = warehouse.get("id").asLong();
+            if (!warehouseIds.contains(id)) {
+                continue; // not ours
+            }
+            seen.add(id);
+
+            CallResult items = client.listItems(id);
+            if (!items.isSuccess()) {
+                violations.add("Warehouse " + id + ": could not list items (HTTP " + items.status() + ")");
+                continue;
+            }
+            violations.addAll(checkWarehouse(warehouse, client.readJson(items)));
+        }
+
+        for (Long id : warehouseIds) {
+            if (!seen.contains(id)) {
+                violations.add("Warehouse " + id + " disappeared during the run");
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Invariants for one warehouse, given its JSON and the JSON array of its items.
+     */
+    static List<String> checkWarehouse(JsonNode warehouse, JsonNode items) {
+        List<String> violations = new ArrayList<>();
+        long id = warehouse.get("id").asLong();
+        int maxCapacity = warehouse.get("maxCapacity").asInt();
+        int currentCapacity = warehouse.get("currentCapacity").asInt();
+
+        // 1) Capacity bounds
+        if (currentCapacity < 0) {
+            violations.add("Warehouse " + id + ": currentCapacity " + currentCapacity + " is negative");
+        }
+        if (currentCapacity > maxCapacity) {
+            violations.add("Warehouse " + id + ": currentCapacity " + currentCapacity
+                    + " exceeds maxCapacity " + maxCapacity);
+        }
+
+        // 2) Item quantities and SKU uniqueness
+        long sum = 0;
+        Set<String> skus = new HashSet<>();
+        for (JsonNode item : items) {
+            int qty = item.get("quantity").asInt();
+            String sku = item.get("sku").asText();
+            sum += qty;
+
+            if (qty <= 0) {
+                violations.add("Warehouse " + id + ": item " + item.get("id").asLong()
+                        + " (" + sku + ") has non-positive quantity " + qty);
+            }
+            if (!skus.add(sku)) {
+                violations.add("Warehouse " + id + ": duplicate rows for SKU " + sku);
+            }
+        }
+
+        // 3) Tracked capacity must match what is actually on the shelves (lost updates show up here)
+        if (sum != currentCapacity) {
+            violations.add("Warehouse " + id + ": currentCapacity " + currentCapacity
+                    + " but items sum to " + sum);
+        }
+        return violations;
+    }
+}
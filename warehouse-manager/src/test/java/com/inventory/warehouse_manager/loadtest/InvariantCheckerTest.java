@@ -0,0 +1,61 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvariantCheckerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void consistentWarehousePasses() throws JsonProcessingException {
+        List<String> violations = InvariantChecker.checkWarehouse(
+                warehouse(100, 30),
+                items("[{\"id\":1,\"sku\":\"A\",\"quantity\":10},{\"id\":2,\"sku\":\"B\",\"quantity\":20}]"));
+
+        assertTrue(violations.isEmpty(), violations.toString());
+    }
+
+    @Test
+    void capacityDriftIsReported() throws JsonProcessingException {
+        List<String> violations = InvariantChecker.checkWarehouse(
+                warehouse(100, 25),
+                items("[{\"id\":1,\"sku\":\"A\",\"quantity\":10},{\"id\":2,\"sku\":\"B\",\"quantity\":20}]"));
+
+        assertEquals(List.of("Warehouse 1: currentCapacity 25 but items sum to 30"), violations);
+    }
+
+    @Test
+    void capacityOutOfBoundsIsReported() throws JsonProcessingException {
+        assertTrue(InvariantChecker.checkWarehouse(warehouse(100, 120), items("[{\"id\":1,\"sku\":\"A\",\"quantity\":120}]"))
+                .contains("Warehouse 1: currentCapacity 120 exceeds maxCapacity 100"));
+        assertTrue(InvariantChecker.checkWarehouse(warehouse(100, -5), items("[]"))
+                .contains("Warehouse 1: currentCapacity -5 is negative"));
+    }
+
+    @Test
+    void nonPositiveQuantityAndDuplicateSkuAreReported() throws JsonProcessingException {
+        List<String> violations = InvariantChecker.checkWarehouse(
+                warehouse(100, 10),
+                items("[{\"id\":1,\"sku\":\"A\",\"quantity\":10},{\"id\":2,\"sku\":\"A\",\"quantity\":0}]"));
+
+        assertTrue(violations.contains("Warehouse 1: item 2 (A) has non-positive quantity 0"), violations.toString());
+        assertTrue(violations.contains("Warehouse 1: duplicate rows for SKU A"), violations.toString());
+    }
+
+    private JsonNode warehouse(int maxCapacity, int currentCapacity) throws JsonProcessingException {
+        return mapper.readTree("{\"id\":1,\"maxCapacity\":" + maxCapacity
+                + ",\"currentCapacity\":" + currentCapacity + "}");
+    }
+
+    private JsonNode items(String json) throws JsonProcessingException {
+        return mapper.readTree(json);
+    }
+}
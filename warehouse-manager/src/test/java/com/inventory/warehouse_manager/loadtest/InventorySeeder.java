@@ -0,0 +1,102 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.warehouse_manager.loadtest.WarehouseApiClient.CallResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds N warehouses x M items through the public API before a run, and removes them again afterwards.
+ * Every warehouse gets the same SKU catalogue so transfers always have a source item.
+ */
+public class InventorySeeder {
+
+    /**
+     * What was created. itemIds[w][s] is the id of skus.get(s) in warehouseIds.get(w).
+     */
+    public record SeededInventory(String runId, List<Long> warehouseIds, List<String> skus, long[][] itemIds) {
+    }
+
+    private final WarehouseApiClient client;
+
+    public InventorySeeder(WarehouseApiClient client) {
+        this.client = client;
+    }
+
+    public SeededInventory seed(LoadTestConfig config) {
+        // Unique prefix so repeated runs against the same database don't collide on warehouse name
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        List<String> skus = new ArrayList<>();
+        for (int s = 0; s < config.itemsPerWarehouse(); s++) {
+            skus.add(String.format("LT-%s-%05d", runId, s));
+        }
+
+        int maxCapacity = (int) Math.ceil(
+                (double) config.itemsPerWarehouse() * config.seedQuantity() * config.capacityHeadroom());
+
+        List<Long> warehouseIds = new ArrayList<>();
+        long[][] itemIds = new long[config.warehouses()][config.itemsPerWarehouse()];
+
+        try {
+            for (int w = 0; w < config.warehouses(); w++) {
+                CallResult created = client.createWarehouse(
+                        "loadtest-" + runId + "-" + w, "Load test site " + w, maxCapacity);
+                long warehouseId = requireSuccess(created, "create warehouse " + w).get("id").asLong();
+                warehouseIds.add(warehouseId);
+
+                for (int s = 0; s < skus.size(); s++) {
+                    CallResult item = client.addItem(warehouseId, skus.get(s), config.seedQuantity());
+                    itemIds[w][s] = requireSuccess(item, "add " + skus.get(s) + " to warehouse " + warehouseId)
+                            .get("id").asLong();
+                }
+            }
+        } catch (RuntimeException e) {
+            // Don't leave a half-seeded run behind
+            teardown(warehouseIds);
+            throw e;
+        }
+
+        return new SeededInventory(runId, List.copyOf(warehouseIds), List.copyOf(skus), itemIds);
+    }
+
+    /**
+     * Deletes every item in the given warehouses (including rows re-created by transfers), then the
+     * warehouses themselves. Never throws; returns one message per thing that could not be removed.
+     */
+    public List<String> teardown(List<Long> warehouseIds) {
+        List<String> problems = new ArrayList<>();
+
+        for (Long warehouseId : warehouseIds) {
+            CallResult items = client.listItems(warehouseId);
+            if (!items.isSuccess()) {
+                problems.add("Warehouse " + warehouseId + ": could not list items (HTTP " + items.status() + ")");
+                continue;
+            }
+            for (JsonNode item : client.readJson(items)) {
+                long itemId = item.get("id").asLong();
+                CallResult deleted = client.deleteItem(warehouseId, itemId);
+                if (!deleted.isSuccess() && deleted.error() != ErrorCategory.NOT_FOUND) {
+                    problems.add("Warehouse " + warehouseId + ": could not delete item " + itemId
+                            + " (HTTP " + deleted.status() + ")");
+                }
+            }
+
+            CallResult deleted = client.deleteWarehouse(warehouseId);
+            if (!deleted.isSuccess()) {
+                problems.add("Could not delete warehouse " + warehouseId
+                        + " (HTTP " + deleted.status() + "): " + deleted.body());
+            }
+        }
+        return problems;
+    }
+
+    private JsonNode requireSuccess(CallResult result, String what) {
+        if (!result.isSuccess()) {
+            throw new IllegalStateException(
+                    "Seeding failed to " + what + " (HTTP " + result.status() + "): " + result.body());
+        }
+        return client.readJson(result);
+    }
+}
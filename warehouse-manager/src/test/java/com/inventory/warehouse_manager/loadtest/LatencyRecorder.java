@@ -0,0 +1,45 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw latency samples (nanoseconds) and answers percentile queries.
+ * Samples are kept in full, so memory is ~8 bytes per request: fine for hour-long soaks
+ * at a few hundred requests per second.
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Snapshot of the samples, sorted ascending, for percentile queries.
+     */
+    public synchronized long[] sortedSnapshot() {
+        long[] copy = Arrays.copyOf(samples, count);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    /**
+     * Nearest-rank percentile, e.g. percentile(sorted, 99.9). Returns 0 for an empty set.
+     */
+    public static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,57 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void percentileUsesNearestRank() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1; // 1..100
+        }
+
+        assertEquals(50, LatencyRecorder.percentile(sorted, 50));
+        assertEquals(99, LatencyRecorder.percentile(sorted, 99));
+        assertEquals(100, LatencyRecorder.percentile(sorted, 99.9));
+        assertEquals(100, LatencyRecorder.percentile(sorted, 100));
+    }
+
+    @Test
+    void p999OnSmallSampleIsTheMax() {
+        long[] sorted = {5, 7, 9};
+
+        assertEquals(9, LatencyRecorder.percentile(sorted, 99.9));
+        assertEquals(9, LatencyRecorder.percentile(sorted, 99));
+    }
+
+    @Test
+    void percentileClampsToTheSampleRange() {
+        long[] sorted = {5, 7, 9};
+
+        assertEquals(5, LatencyRecorder.percentile(sorted, 0));
+        assertEquals(9, LatencyRecorder.percentile(sorted, 150));
+    }
+
+    @Test
+    void emptySampleSetReturnsZero() {
+        assertEquals(0, LatencyRecorder.percentile(new long[0], 99));
+    }
+
+    @Test
+    void sortedSnapshotGrowsPastInitialCapacity() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 2000; i > 0; i--) {
+            recorder.record(i);
+        }
+
+        long[] snapshot = recorder.sortedSnapshot();
+        assertEquals(2000, recorder.count());
+        assertEquals(1, snapshot[0]);
+        assertEquals(2000, snapshot[snapshot.length - 1]);
+        assertArrayEquals(snapshot, recorder.sortedSnapshot());
+    }
+}
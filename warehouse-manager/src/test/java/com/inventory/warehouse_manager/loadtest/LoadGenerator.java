@@ -0,0 +1,302 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.warehouse_manager.loadtest.InventorySeeder.SeededInventory;
+import com.inventory.warehouse_manager.loadtest.WarehouseApiClient.CallResult;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: requests are issued on a fixed arrival schedule
+ * (Poisson or constant rate) no matter how slowly the server answers.
+ * Requests go out with HttpClient.sendAsync, so there is no cap on how many are in flight;
+ * a small pool only handles the responses. Latency is measured from the *scheduled* start
+ * time, so any dispatch delay on our side counts against it too.
+ */
+public class LoadGenerator {
+
+    /**
+     * Raw counters for one run; LoadReport turns them into text.
+     */
+    public static class RunResult {
+        final LatencyRecorder overall = new LatencyRecorder();
+        final Map<Operation, LatencyRecorder> latencies = new EnumMap<>(Operation.class);
+        final Map<Operation, Map<ErrorCategory, LongAdder>> errors = new EnumMap<>(Operation.class);
+        final AtomicLong lastCompletionNanos = new AtomicLong();
+        // Updates with no live row to hit (SKU drained, or the cached id went stale and 404'd):
+        // a harness miss, kept out of the latency and error tables
+        final LongAdder noTarget = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peakInFlight = new AtomicInteger();
+        // Set when the drain deadline passes; late responses are then ignored
+        volatile boolean closed;
+        long scheduled;
+        long startNanos;
+        boolean drained = true;
+        // Scheduled requests that never finished because the backlog did not drain in time
+        long abandoned;
+        // Requests still outstanding when teardown started (only possible when not drained)
+        int inFlightAtCleanup;
+
+        RunResult() {
+            for (Operation op : Operation.values()) {
+                latencies.put(op, new LatencyRecorder());
+                Map<ErrorCategory, LongAdder> byCategory = new EnumMap<>(ErrorCategory.class);
+                for (ErrorCategory category : ErrorCategory.values()) {
+                    byCategory.put(category, new LongAdder());
+                }
+                errors.put(op, byCategory);
+            }
+        }
+    }
+
+    private final WarehouseApiClient client;
+    private final LoadTestConfig config;
+    private final SeededInventory inventory;
+    private final Random random;
+    // "warehouseId:sku" -> current item id. Transfers delete drained rows and re-create them
+    // under a new id, so this is refreshed from the LIST_ITEMS and ADD_ITEM responses the mix
+    // already produces; updates never issue extra lookups of their own.
+    private final Map<String, Long> itemIds = new ConcurrentHashMap<>();
+
+    /**
+     * Returned by an update that found no live row for its SKU; never counted as an error.
+     */
+    private static final CallResult NO_TARGET = new CallResult(404, "", null);
+
+    public LoadGenerator(WarehouseApiClient client, LoadTestConfig config, SeededInventory inventory) {
+        this.client = client;
+        this.config = config;
+        this.inventory = inventory;
+        this.random = new Random(config.randomSeed());
+
+        for (int w = 0; w < inventory.warehouseIds().size(); w++) {
+            for (int s = 0; s < inventory.skus().size(); s++) {
+                itemIds.put(key(inventory.warehouseIds().get(w), inventory.skus().get(s)), inventory.itemIds()[w][s]);
+            }
+        }
+    }
+
+    public RunResult run() throws InterruptedException {
+        RunResult result = new RunResult();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService callbacks = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                    Thread t = new Thread(r, "loadtest-callback-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond();
+        long start = System.nanoTime();
+        long end = start + config.duration().toNanos();
+        long next = start;
+        result.startNanos = start;
+
+        // The dispatcher only schedules and fires; it never waits for a response, so a slow
+        // server can't throttle the arrival rate (open model).
+        while (true) {
+            next += config.poissonArrivals()
+                    ? (long) (-Math.log(1.0 - random.nextDouble()) * meanGapNanos)
+                    : (long) meanGapNanos;
+            if (next >= end) {
+                break;
+            }
+            sleepUntil(next);
+
+            Operation op = pickOperation();
+            Supplier<CompletableFuture<CallResult>> call = prepareCall(op);
+            long scheduledAt = next;
+            result.scheduled++;
+            result.peakInFlight.accumulateAndGet(result.inFlight.incrementAndGet(), Math::max);
+
+            call.get()
+                    .thenAcceptAsync(outcome -> record(result, op, scheduledAt, outcome), callbacks)
+                    .whenComplete((ignored, failure) -> result.inFlight.decrementAndGet());
+        }
+
+        // Every request times out after requestTimeout, so twice that is plenty to drain
+        boolean drained = awaitIdle(result, config.requestTimeout().multipliedBy(2));
+        result.closed = true;
+        if (!drained) {
+            result.drained = false;
+            result.abandoned = result.scheduled - result.completed.sum();
+        }
+        callbacks.shutdown();
+        return result;
+    }
+
+    /**
+     * Waits until no request is in flight; false if the timeout passed first.
+     */
+    static boolean awaitIdle(RunResult result, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (result.inFlight.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static void record(RunResult result, Operation op, long scheduledAt, CallResult outcome) {
+        if (result.closed) {
+            return; // already reported as abandoned
+        }
+        long now = System.nanoTime();
+        result.lastCompletionNanos.accumulateAndGet(now, Math::max);
+        result.completed.increment();
+        if (outcome == NO_TARGET) {
+            result.noTarget.increment();
+            return;
+        }
+
+        long latency = now - scheduledAt;
+        result.overall.record(latency);
+        result.latencies.get(op).record(latency);
+        if (!outcome.isSuccess()) {
+            result.errors.get(op).get(outcome.error()).increment();
+        }
+    }
+
+    private Operation pickOperation() {
+        int roll = random.nextInt(config.totalWeight());
+        if ((roll -= config.listWeight()) < 0) {
+            return Operation.LIST_ITEMS;
+        }
+        if ((roll -= config.addWeight()) < 0) {
+            return Operation.ADD_ITEM;
+        }
+        if ((roll -= config.updateWeight()) < 0) {
+            return Operation.UPDATE_ITEM;
+        }
+        return Operation.TRANSFER;
+    }
+
+    /**
+     * Draw all random parameters here on the dispatcher thread so a given seed replays the same traffic.
+     */
+    private Supplier<CompletableFuture<CallResult>> prepareCall(Operation op) {
+        int w = random.nextInt(inventory.warehouseIds().size());
+        long warehouseId = inventory.warehouseIds().get(w);
+
+        switch (op) {
+            case LIST_ITEMS:
+                return () -> client.listItemsAsync(warehouseId)
+                        .thenApply(outcome -> onSuccess(outcome, items -> refreshItemIds(warehouseId, items)));
+
+            case ADD_ITEM: {
+                String sku = inventory.skus().get(random.nextInt(inventory.skus().size()));
+                int qty = 1 + random.nextInt(5);
+                // Merges into the existing row, or re-creates one a transfer deleted
+                return () -> client.addItemAsync(warehouseId, sku, qty)
+                        .thenApply(outcome -> onSuccess(outcome,
+                                item -> itemIds.put(key(warehouseId, sku), item.get("id").asLong())));
+            }
+
+            case UPDATE_ITEM: {
+                String sku = inventory.skus().get(random.nextInt(inventory.skus().size()));
+                int qty = 1 + random.nextInt(config.seedQuantity() * 2);
+                return () -> updateItem(warehouseId, sku, qty);
+            }
+
+            case TRANSFER: {
+                int d = random.nextInt(inventory.warehouseIds().size() - 1);
+                long destinationId = inventory.warehouseIds().get(d >= w ? d + 1 : d);
+                String sku = pickTransferSku();
+                int qty = 1 + random.nextInt(5);
+                return () -> client.transferAsync(warehouseId, destinationId, sku, qty);
+            }
+
+            default:
+                throw new IllegalStateException("Unhandled operation " + op);
+        }
+    }
+
+    /**
+     * Exactly one PUT per scheduled update. A SKU with no known row, or a cached id that 404s
+     * because a transfer deleted the row, is a harness miss (NO_TARGET) rather than a server error.
+     */
+    private CompletableFuture<CallResult> updateItem(long warehouseId, String sku, int qty) {
+        String key = key(warehouseId, sku);
+        Long itemId = itemIds.get(key);
+        if (itemId == null) {
+            return CompletableFuture.completedFuture(NO_TARGET);
+        }
+
+        return client.updateItemAsync(warehouseId, itemId, sku, qty).thenApply(outcome -> {
+            if (outcome.error() == ErrorCategory.NOT_FOUND) {
+                // Only forget it if nothing has refreshed the entry in the meantime
+                itemIds.remove(key, itemId);
+                return NO_TARGET;
+            }
+            return outcome;
+        });
+    }
+
+    /**
+     * Feeds a successful response body to the id cache. A body we can't read only means
+     * the cache isn't refreshed this time; the request itself still counts.
+     */
+    private CallResult onSuccess(CallResult outcome, Consumer<JsonNode> body) {
+        if (outcome.isSuccess()) {
+            try {
+                body.accept(client.readJson(outcome));
+            } catch (RuntimeException ignored) {
+                // keep the previous ids
+            }
+        }
+        return outcome;
+    }
+
+    private void refreshItemIds(long warehouseId, JsonNode items) {
+        Map<String, Long> current = new HashMap<>();
+        for (JsonNode item : items) {
+            current.put(item.get("sku").asText(), item.get("id").asLong());
+        }
+        for (String sku : inventory.skus()) {
+            Long id = current.get(sku);
+            if (id != null) {
+                itemIds.put(key(warehouseId, sku), id);
+            } else {
+                itemIds.remove(key(warehouseId, sku));
+            }
+        }
+    }
+
+    private static String key(long warehouseId, String sku) {
+        return warehouseId + ":" + sku;
+    }
+
+    // Transfers concentrate on a small set of hot SKUs to provoke row contention
+    private String pickTransferSku() {
+        int index = random.nextDouble() < config.hotSkuRatio()
+                ? random.nextInt(config.hotSkus())
+                : random.nextInt(inventory.skus().size());
+        return inventory.skus().get(index);
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.inventory.warehouse_manager.loadtest.LoadGenerator.RunResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plain-text summary of a run: throughput, latency percentiles per operation,
+ * error breakdown by GlobalExceptionHandler category and invariant violations.
+ */
+public class LoadReport {
+
+    private final LoadTestConfig config;
+    private final RunResult result;
+    private final List<String> violations; // null when the check was skipped
+    private final List<Long> warehouseIds;
+    private final List<String> cleanupProblems;
+
+    public LoadReport(LoadTestConfig config, RunResult result, List<String> violations,
+                      List<Long> warehouseIds, List<String> cleanupProblems) {
+        this.config = config;
+        this.result = result;
+        this.violations = violations;
+        this.warehouseIds = warehouseIds;
+        this.cleanupProblems = cleanupProblems;
+    }
+
+    public List<String> getViolations() {
+        return violations != null ? violations : List.of();
+    }
+
+    public List<Long> getWarehouseIds() {
+        return warehouseIds;
+    }
+
+    public List<String> getCleanupProblems() {
+        return cleanupProblems;
+    }
+
+    public boolean isDrained() {
+        return result.drained;
+    }
+
+    /**
+     * Requests that reached the latency and error tables, i.e. completed minus NO_TARGET updates.
+     */
+    public long getMeasured() {
+        return result.overall.count();
+    }
+
+    public long getAbandoned() {
+        return result.abandoned;
+    }
+
+    /**
+     * Failures that point at the server rather than at business rules: 500s, odd statuses, timeouts, transport.
+     */
+    public long getFaults() {
+        return result.errors.values().stream()
+                .mapToLong(byCategory -> byCategory.get(ErrorCategory.SERVER_ERROR).sum()
+                        + byCategory.get(ErrorCategory.OTHER_STATUS).sum()
+                        + byCategory.get(ErrorCategory.TIMEOUT).sum()
+                        + byCategory.get(ErrorCategory.TRANSPORT).sum())
+                .sum();
+    }
+
+    public long getTotalErrors() {
+        return result.errors.values().stream()
+                .flatMap(byCategory -> byCategory.values().stream())
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * Pass criteria shared by WarehouseLoadTest and LoadTestRunner.main; empty means the run passed.
+     */
+    public List<String> getFailures() {
+        List<String> failures = new ArrayList<>();
+        if (!result.drained) {
+            failures.add(result.abandoned + " requests abandoned: the server could not sustain the offered rate");
+        }
+        if (getMeasured() <= getTotalErrors()) {
+            failures.add("Every request failed (" + getTotalErrors() + " errors out of " + getMeasured() + ")");
+        }
+        if (getFaults() > config.maxFaultRate() * getMeasured()) {
+            failures.add(String.format("%d server faults out of %d requests exceeds loadtest.maxFaultRate %.2f%%",
+                    getFaults(), getMeasured(), config.maxFaultRate() * 100));
+        }
+        getViolations().forEach(v -> failures.add("Invariant violated: " + v));
+        return failures;
+    }
+
+    public boolean passed() {
+        return getFailures().isEmpty();
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        long measured = getMeasured();
+        long noTarget = result.noTarget.sum();
+        long elapsedNanos = Math.max(1, result.lastCompletionNanos.get() - result.startNanos);
+        double elapsedSeconds = elapsedNanos / 1e9;
+
+        out.append("=== Warehouse load test ===\n");
+        out.append(String.format("Seeded:      %d warehouses x %d items (seed %d)%n",
+                config.warehouses(), config.itemsPerWarehouse(), config.randomSeed()));
+        out.append(String.format("Mix:         list %d / add %d / update %d / transfer %d, %d hot SKUs @ %.0f%%%n",
+                config.listWeight(), config.addWeight(), config.updateWeight(), config.transferWeight(),
+                config.hotSkus(), config.hotSkuRatio() * 100));
+        out.append(String.format("Offered:     %.1f req/s %s for %ds (%d scheduled)%n",
+                config.ratePerSecond(), config.poissonArrivals() ? "poisson" : "constant",
+                config.duration().toSeconds(), result.scheduled));
+        out.append(String.format("Measured:    %d in %.1fs -> %.1f req/s, peak %d in flight%n",
+                measured, elapsedSeconds, measured / elapsedSeconds, result.peakInFlight.get()));
+        out.append(String.format("No target:   %d updates with no live row (SKU drained or stale id 404) -> %.1f/s,"
+                        + " not in the tables below%n",
+                noTarget, noTarget / elapsedSeconds));
+        if (!result.drained) {
+            out.append(String.format("Abandoned:   %d (NOT DRAINED: server could not keep up with the offered rate)%n",
+                    result.abandoned));
+        }
+        out.append(String.format("Errors:      %d (%.2f%% of measured)%n",
+                getTotalErrors(), measured == 0 ? 0.0 : 100.0 * getTotalErrors() / measured));
+
+        out.append("\nLatency (ms, from scheduled start)\n");
+        out.append(String.format("%-12s %8s %9s %9s %9s %9s%n", "operation", "count", "p50", "p99", "p999", "max"));
+        for (Operation op : Operation.values()) {
+            appendLatencyRow(out, op.name(), result.latencies.get(op));
+        }
+        appendLatencyRow(out, "ALL", result.overall);
+
+        out.append("\nErrors by category (SERVER_ERROR also includes bean-validation rejections)\n");
+        for (Map.Entry<Operation, Map<ErrorCategory, LongAdder>> entry : result.errors.entrySet()) {
+            for (Map.Entry<ErrorCategory, LongAdder> category : entry.getValue().entrySet()) {
+                long count = category.getValue().sum();
+                if (count > 0) {
+                    out.append(String.format("  %-12s %-21s %d%n", entry.getKey(), category.getKey(), count));
+                }
+            }
+        }
+        if (getTotalErrors() == 0) {
+            out.append("  none\n");
+        }
+
+        if (violations == null) {
+            out.append("\nInvariant violations: not checked (backlog not drained)\n");
+        } else {
+            out.append("\nInvariant violations: ").append(violations.size()).append('\n');
+            violations.forEach(v -> out.append("  ").append(v).append('\n'));
+        }
+
+        if (result.inFlightAtCleanup > 0) {
+            out.append(String.format("%nCleanup ran with %d requests still in flight; failures below may be races with them%n",
+                    result.inFlightAtCleanup));
+        }
+        if (!cleanupProblems.isEmpty()) {
+            out.append("\nCleanup left seeded data behind:\n");
+            cleanupProblems.forEach(p -> out.append("  ").append(p).append('\n'));
+        }
+
+        List<String> failures = getFailures();
+        out.append("\nResult: ").append(failures.isEmpty() ? "PASS" : "FAIL").append('\n');
+        failures.forEach(f -> out.append("  ").append(f).append('\n'));
+        return out.toString();
+    }
+
+    private void appendLatencyRow(StringBuilder out, String label, LatencyRecorder recorder) {
+        long[] sorted = recorder.sortedSnapshot();
+        out.append(String.format("%-12s %8d %9.2f %9.2f %9.2f %9.2f%n",
+                label,
+                sorted.length,
+                millis(LatencyRecorder.percentile(sorted, 50)),
+                millis(LatencyRecorder.percentile(sorted, 99)),
+                millis(LatencyRecorder.percentile(sorted, 99.9)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1])));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.inventory.warehouse_manager.loadtest.LoadGenerator.RunResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadReportTest {
+
+    private final LoadTestConfig config = LoadTestConfig.fromProperties(new Properties()); // maxFaultRate 1%
+
+    @Test
+    void cleanRunPasses() {
+        RunResult result = measured(200, 0, null);
+
+        LoadReport report = new LoadReport(config, result, List.of(), List.of(), List.of());
+
+        assertTrue(report.passed(), report.getFailures().toString());
+    }
+
+    @Test
+    void businessRejectionsAreNotFaults() {
+        RunResult result = measured(200, 50, ErrorCategory.CAPACITY);
+
+        LoadReport report = new LoadReport(config, result, List.of(), List.of(), List.of());
+
+        assertEquals(0, report.getFaults());
+        assertTrue(report.passed(), report.getFailures().toString());
+    }
+
+    @Test
+    void tooManyServerFaultsFail() {
+        RunResult result = measured(200, 3, ErrorCategory.TIMEOUT);
+
+        LoadReport report = new LoadReport(config, result, List.of(), List.of(), List.of());
+
+        assertFalse(report.passed());
+        assertEquals(1, report.getFailures().size());
+    }
+
+    @Test
+    void everyRequestFailingFails() {
+        RunResult result = measured(10, 10, ErrorCategory.NOT_FOUND);
+
+        LoadReport report = new LoadReport(config, result, List.of(), List.of(), List.of());
+
+        assertFalse(report.passed());
+    }
+
+    @Test
+    void emptyRunFails() {
+        LoadReport report = new LoadReport(config, new RunResult(), List.of(), List.of(), List.of());
+
+        assertFalse(report.passed());
+    }
+
+    @Test
+    void undrainedRunFailsEvenWithoutInvariantCheck() {
+        RunResult result = measured(200, 0, null);
+        result.drained = false;
+        result.abandoned = 40;
+
+        LoadReport report = new LoadReport(config, result, null, List.of(), List.of());
+
+        assertFalse(report.isDrained());
+        assertEquals(40, report.getAbandoned());
+        assertTrue(report.getFailures().get(0).startsWith("40 requests abandoned"));
+        assertTrue(report.format().contains("not checked (backlog not drained)"));
+    }
+
+    @Test
+    void invariantViolationsFail() {
+        RunResult result = measured(200, 0, null);
+
+        LoadReport report = new LoadReport(config, result,
+                List.of("Warehouse 1: currentCapacity 25 but items sum to 30"), List.of(), List.of());
+
+        assertEquals(List.of("Invariant violated: Warehouse 1: currentCapacity 25 but items sum to 30"),
+                report.getFailures());
+    }
+
+    /**
+     * A run with the given number of measured LIST_ITEMS requests, the first {@code errors} of them failing.
+     */
+    private static RunResult measured(int requests, int errors, ErrorCategory category) {
+        RunResult result = new RunResult();
+        for (int i = 0; i < requests; i++) {
+            result.overall.record(1_000_000);
+            result.latencies.get(Operation.LIST_ITEMS).record(1_000_000);
+            result.completed.increment();
+        }
+        for (int i = 0; i < errors; i++) {
+            result.errors.get(Operation.LIST_ITEMS).get(category).increment();
+        }
+        result.scheduled = requests;
+        return result;
+    }
+}
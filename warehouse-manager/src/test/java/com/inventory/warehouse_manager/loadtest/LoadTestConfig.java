@@ -0,0 +1,103 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Knobs for a load / soak run. Every value can be overridden with a
+ * "loadtest.*" system property, e.g. -Dloadtest.rate=200 -Dloadtest.durationSeconds=3600
+ */
+public record LoadTestConfig(
+        int warehouses,
+        int itemsPerWarehouse,
+        int seedQuantity,
+        double capacityHeadroom,
+        double ratePerSecond,
+        Duration duration,
+        boolean poissonArrivals,
+        int listWeight,
+        int addWeight,
+        int updateWeight,
+        int transferWeight,
+        int hotSkus,
+        double hotSkuRatio,
+        Duration requestTimeout,
+        double maxFaultRate,
+        long randomSeed
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return fromProperties(System.getProperties());
+    }
+
+    static LoadTestConfig fromProperties(Properties props) {
+        String[] mix = prop(props, "mix", "70,10,10,10").split(",");
+        if (mix.length != 4) {
+            throw new IllegalArgumentException(
+                    "loadtest.mix must be four weights: list,add,update,transfer");
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(prop(props, "warehouses", "10")),
+                Integer.parseInt(prop(props, "itemsPerWarehouse", "50")),
+                Integer.parseInt(prop(props, "seedQuantity", "100")),
+                Double.parseDouble(prop(props, "capacityHeadroom", "2.0")),
+                Double.parseDouble(prop(props, "rate", "50")),
+                Duration.ofSeconds(Long.parseLong(prop(props, "durationSeconds", "60"))),
+                !"constant".equalsIgnoreCase(prop(props, "arrivals", "poisson")),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Integer.parseInt(mix[3].trim()),
+                Integer.parseInt(prop(props, "hotSkus", "5")),
+                Double.parseDouble(prop(props, "hotSkuRatio", "0.8")),
+                Duration.ofMillis(Long.parseLong(prop(props, "requestTimeoutMs", "10000"))),
+                Double.parseDouble(prop(props, "maxFaultRate", "0.01")),
+                Long.parseLong(prop(props, "seed", String.valueOf(System.nanoTime())))
+        );
+        config.validate();
+        return config;
+    }
+
+    void validate() {
+        if (warehouses < 2) {
+            throw new IllegalArgumentException("At least 2 warehouses are needed for transfers.");
+        }
+        if (itemsPerWarehouse <= 0 || seedQuantity <= 0) {
+            throw new IllegalArgumentException("Items per warehouse and seed quantity must be greater than 0.");
+        }
+        if (capacityHeadroom < 1.0) {
+            throw new IllegalArgumentException("Capacity headroom must be at least 1.0.");
+        }
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be greater than 0.");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration (loadtest.durationSeconds) must be greater than 0.");
+        }
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Request timeout (loadtest.requestTimeoutMs) must be greater than 0.");
+        }
+        if (listWeight < 0 || addWeight < 0 || updateWeight < 0 || transferWeight < 0
+                || totalWeight() == 0) {
+            throw new IllegalArgumentException("Operation mix weights must be >= 0 and not all 0.");
+        }
+        if (hotSkus <= 0 || hotSkus > itemsPerWarehouse) {
+            throw new IllegalArgumentException("Hot SKU count must be between 1 and items per warehouse.");
+        }
+        if (hotSkuRatio < 0 || hotSkuRatio > 1) {
+            throw new IllegalArgumentException("Hot SKU ratio must be between 0 and 1.");
+        }
+        if (maxFaultRate < 0 || maxFaultRate > 1) {
+            throw new IllegalArgumentException("Max fault rate must be between 0 and 1.");
+        }
+    }
+
+    int totalWeight() {
+        return listWeight + addWeight + updateWeight + transferWeight;
+    }
+
+    private static String prop(Properties props, String name, String defaultValue) {
+        return props.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,83 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTestConfigTest {
+
+    @Test
+    void defaultsMatchThePeakMix() {
+        LoadTestConfig config = LoadTestConfig.fromProperties(new Properties());
+
+        assertEquals(70, config.listWeight());
+        assertEquals(10, config.addWeight());
+        assertEquals(10, config.updateWeight());
+        assertEquals(10, config.transferWeight());
+        assertEquals(100, config.totalWeight());
+        assertTrue(config.poissonArrivals());
+    }
+
+    @Test
+    void parsesMixAndOverrides() {
+        Properties props = new Properties();
+        props.setProperty("loadtest.mix", " 50, 20 ,25,5");
+        props.setProperty("loadtest.rate", "250");
+        props.setProperty("loadtest.arrivals", "constant");
+        props.setProperty("loadtest.seed", "42");
+
+        LoadTestConfig config = LoadTestConfig.fromProperties(props);
+
+        assertEquals(50, config.listWeight());
+        assertEquals(20, config.addWeight());
+        assertEquals(25, config.updateWeight());
+        assertEquals(5, config.transferWeight());
+        assertEquals(250.0, config.ratePerSecond());
+        assertFalse(config.poissonArrivals());
+        assertEquals(42, config.randomSeed());
+    }
+
+    @Test
+    void rejectsMixWithWrongNumberOfWeights() {
+        Properties props = new Properties();
+        props.setProperty("loadtest.mix", "70,20,10");
+
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.fromProperties(props));
+    }
+
+    @Test
+    void rejectsAllZeroOrNegativeWeights() {
+        Properties zero = new Properties();
+        zero.setProperty("loadtest.mix", "0,0,0,0");
+        Properties negative = new Properties();
+        negative.setProperty("loadtest.mix", "80,-10,20,10");
+
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.fromProperties(zero));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.fromProperties(negative));
+    }
+
+    @Test
+    void rejectsInvalidRunShape() {
+        assertThrows(IllegalArgumentException.class, () -> withProperty("warehouses", "1"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("rate", "0"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("durationSeconds", "0"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("durationSeconds", "-5"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("requestTimeoutMs", "0"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("requestTimeoutMs", "-1"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("hotSkus", "51"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("hotSkuRatio", "1.5"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("capacityHeadroom", "0.5"));
+        assertThrows(IllegalArgumentException.class, () -> withProperty("maxFaultRate", "-0.1"));
+    }
+
+    private static LoadTestConfig withProperty(String name, String value) {
+        Properties props = new Properties();
+        props.setProperty("loadtest." + name, value);
+        return LoadTestConfig.fromProperties(props);
+    }
+}
@@ -0,0 +1,59 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.inventory.warehouse_manager.loadtest.InventorySeeder.SeededInventory;
+
+import java.util.List;
+
+/**
+ * Seed -> replay -> verify -> clean up. Used by WarehouseLoadTest against an in-process server,
+ * or directly via main() against an already running instance (the class lives in the test tree,
+ * so run it through Maven with the test classpath):
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.inventory.warehouse_manager.loadtest.LoadTestRunner \
+ *       -Dexec.args=http://localhost:8080 -Dloadtest.rate=200 -Dloadtest.durationSeconds=1800
+ */
+public class LoadTestRunner {
+
+    private final WarehouseApiClient client;
+    private final LoadTestConfig config;
+
+    public LoadTestRunner(String baseUrl, LoadTestConfig config) {
+        this.client = new WarehouseApiClient(baseUrl, config.requestTimeout());
+        this.config = config;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        InventorySeeder seeder = new InventorySeeder(client);
+        SeededInventory inventory = seeder.seed(config);
+
+        LoadGenerator.RunResult result = null;
+        List<String> violations;
+        List<String> cleanupProblems;
+        try {
+            result = new LoadGenerator(client, config, inventory).run();
+
+            // Abandoned requests may still be mutating data, so invariants would report noise
+            violations = result.drained
+                    ? new InvariantChecker(client).check(inventory.warehouseIds())
+                    : null;
+        } finally {
+            if (result != null && !result.drained) {
+                // Give abandoned requests one more timeout to land before deleting what they touch
+                LoadGenerator.awaitIdle(result, config.requestTimeout());
+                result.inFlightAtCleanup = result.inFlight.get();
+            }
+            cleanupProblems = seeder.teardown(inventory.warehouseIds());
+        }
+        return new LoadReport(config, result, violations, inventory.warehouseIds(), cleanupProblems);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        LoadReport report = new LoadTestRunner(baseUrl, LoadTestConfig.fromSystemProperties()).run();
+        System.out.println(report.format());
+        if (!report.passed()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.inventory.warehouse_manager.loadtest;
+
+/**
+ * Operations replayed by the load generator, one per REST endpoint we care about.
+ */
+public enum Operation {
+    LIST_ITEMS,   // GET  /api/warehouses/{id}/items
+    ADD_ITEM,     // POST /api/warehouses/{id}/items
+    UPDATE_ITEM,  // PUT  /api/warehouses/{id}/items/{itemId}
+    TRANSFER      // POST /api/transfers
+}
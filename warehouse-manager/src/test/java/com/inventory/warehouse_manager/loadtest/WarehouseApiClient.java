@@ -0,0 +1,159 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Thin HTTP client for the warehouse REST API. Talks to the real controllers
+ * over the wire so the numbers include JSON, validation and exception handling.
+ * The *Async variants are for the load generator; the blocking ones are for seeding and checks.
+ */
+public class WarehouseApiClient {
+
+    /**
+     * Outcome of a single call. status is -1 when no HTTP response came back.
+     */
+    public record CallResult(int status, String body, ErrorCategory error) {
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    public WarehouseApiClient(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // plain Tomcat, skip the h2c upgrade dance
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    // ---------------------------------------------------------------------
+    // Warehouses
+    // ---------------------------------------------------------------------
+    public CallResult listWarehouses() {
+        return send("GET", "/api/warehouses", null).join();
+    }
+
+    public CallResult createWarehouse(String name, String location, int maxCapacity) {
+        return send("POST", "/api/warehouses", Map.of(
+                "name", name,
+                "location", location,
+                "maxCapacity", maxCapacity)).join();
+    }
+
+    public CallResult deleteWarehouse(long warehouseId) {
+        return send("DELETE", "/api/warehouses/" + warehouseId, null).join();
+    }
+
+    // ---------------------------------------------------------------------
+    // Items
+    // ---------------------------------------------------------------------
+    public CallResult listItems(long warehouseId) {
+        return listItemsAsync(warehouseId).join();
+    }
+
+    public CompletableFuture<CallResult> listItemsAsync(long warehouseId) {
+        return send("GET", "/api/warehouses/" + warehouseId + "/items", null);
+    }
+
+    public CallResult addItem(long warehouseId, String sku, int quantity) {
+        return addItemAsync(warehouseId, sku, quantity).join();
+    }
+
+    public CompletableFuture<CallResult> addItemAsync(long warehouseId, String sku, int quantity) {
+        return send("POST", "/api/warehouses/" + warehouseId + "/items", itemBody(sku, quantity));
+    }
+
+    public CompletableFuture<CallResult> updateItemAsync(long warehouseId, long itemId, String sku, int quantity) {
+        return send("PUT", "/api/warehouses/" + warehouseId + "/items/" + itemId, itemBody(sku, quantity));
+    }
+
+    public CallResult deleteItem(long warehouseId, long itemId) {
+        return send("DELETE", "/api/warehouses/" + warehouseId + "/items/" + itemId, null).join();
+    }
+
+    // ---------------------------------------------------------------------
+    // Transfers
+    // ---------------------------------------------------------------------
+    public CompletableFuture<CallResult> transferAsync(long sourceWarehouseId, long destinationWarehouseId,
+                                                       String sku, int quantity) {
+        return send("POST", "/api/transfers", Map.of(
+                "sourceWarehouseId", sourceWarehouseId,
+                "destinationWarehouseId", destinationWarehouseId,
+                "sku", sku,
+                "quantity", quantity));
+    }
+
+    public JsonNode readJson(CallResult result) {
+        try {
+            return mapper.readTree(result.body());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response is not valid JSON: " + result.body(), e);
+        }
+    }
+
+    private Map<String, Object> itemBody(String sku, int quantity) {
+        return Map.of(
+                "name", "Load item " + sku,
+                "sku", sku,
+                "description", "Seeded by the load test harness",
+                "category", "loadtest",
+                "storageLocation", "A-1",
+                "quantity", quantity);
+    }
+
+    /**
+     * Never completes exceptionally: transport failures come back as a CallResult with status -1.
+     */
+    private CompletableFuture<CallResult> send(String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+
+        if (body == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            try {
+                builder.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize request body", e);
+            }
+        }
+
+        return http.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    if (failure == null) {
+                        int status = response.statusCode();
+                        ErrorCategory error = status >= 200 && status < 300
+                                ? null
+                                : ErrorCategory.classify(status, response.body());
+                        return new CallResult(status, response.body(), error);
+                    }
+
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+                    return new CallResult(-1, cause.toString(),
+                            cause instanceof HttpTimeoutException ? ErrorCategory.TIMEOUT : ErrorCategory.TRANSPORT);
+                });
+    }
+}
@@ -0,0 +1,53 @@
+package com.inventory.warehouse_manager.loadtest;
+
+import com.inventory.warehouse_manager.repository.InventoryItemRepository;
+import com.inventory.warehouse_manager.repository.WarehouseRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays the peak traffic mix against the real controllers on a random port,
+ * backed by the dedicated database in application-loadtest.yml.
+ * Excluded from the normal build; run with: mvn test -Ploadtest [-Dloadtest.rate=... ]
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class WarehouseLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WarehouseRepository warehouseRepo;
+
+    @Autowired
+    private InventoryItemRepository itemRepo;
+
+    @Test
+    void peakMixKeepsCapacityInvariants() throws InterruptedException {
+        LoadReport report = new LoadTestRunner("http://localhost:" + port, LoadTestConfig.fromSystemProperties()).run();
+        System.out.println(report.format());
+        purgeLeftovers(report);
+
+        assertTrue(report.passed(), String.join("\n", report.getFailures()));
+    }
+
+    // The API teardown can't delete items once currentCapacity has drifted below the item total
+    // (the warehouse would go negative and fail validation), so finish the job directly.
+    private void purgeLeftovers(LoadReport report) {
+        if (report.getCleanupProblems().isEmpty()) {
+            return;
+        }
+        for (Long warehouseId : report.getWarehouseIds()) {
+            itemRepo.deleteAll(itemRepo.findByWarehouseId(warehouseId));
+            warehouseRepo.findById(warehouseId).ifPresent(warehouseRepo::delete);
+        }
+    }
+}